@@ -3,6 +3,7 @@ package org.example.extend.cache;
 import org.apache.commons.lang3.StringUtils;
 import org.example.extend.cache.manager.ExtendCacheableHandler;
 import org.example.extend.cache.manager.ExtendRedisCacheManager;
+import org.example.extend.cache.manager.ExtendRedisCacheWriter;
 import org.springframework.boot.autoconfigure.cache.CacheProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.CacheManager;
@@ -11,7 +12,6 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.data.redis.cache.CacheKeyPrefix;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
-import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
@@ -40,7 +40,7 @@ public class ExtendCacheAutoConfigure {
   @Bean(name = "extendRedisCacheManager")
   public CacheManager cacheManager(RedisConnectionFactory connectionFactory,
                                    ExtendCacheableHandler extendCacheableHandler) {
-    RedisCacheWriter redisCacheWriter = RedisCacheWriter.nonLockingRedisCacheWriter(connectionFactory);
+    ExtendRedisCacheWriter redisCacheWriter = new ExtendRedisCacheWriter(connectionFactory);
     Duration timeToLive = cacheProperties.getRedis().getTimeToLive();
     if (Objects.isNull(timeToLive)) {
       timeToLive = Duration.ofDays(1);
@@ -25,6 +25,15 @@ public @interface ExtendCacheable {
    */
   long expiredSecondTime() default -1;
 
+  /**
+   * hash tag 模板，{@code #key} 会被替换为缓存 Key
+   * 如 {@code {#key}}，不同缓存使用相同模板时，相同 Key 的缓存会落在 Redis Cluster 的同一个 slot 上；
+   * 默认为空，不使用 hash tag
+   *
+   * @return hash tag 模板
+   */
+  String hashTagTemplate() default "";
+
   // ---------- 以下是@Cacheable 原始属性-------------//
 
   /**
@@ -1,6 +1,7 @@
 package org.example.extend.cache.manager;
 
 import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.example.extend.cache.anno.ExtendCacheable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -53,10 +54,53 @@ public class ExtendCacheableHandler implements BeanPostProcessor {
       if (Objects.nonNull(extendCacheable)) {
         LOGGER.info("拦截到ExtendCache缓存配置,cacheNames:{},value:{}", extendCacheable.cacheNames(), extendCacheable.value());
         // 设置每个 Cache 的缓存过期时间
-        Arrays.stream(extendCacheable.cacheNames()).forEach(k -> CACHE_TTL_MAP.put(k, extendCacheable));
-        Arrays.stream(extendCacheable.value()).forEach(k -> CACHE_TTL_MAP.put(k, extendCacheable));
+        Arrays.stream(extendCacheable.cacheNames()).forEach(k -> register(k, extendCacheable, method));
+        Arrays.stream(extendCacheable.value()).forEach(k -> register(k, extendCacheable, method));
       }
     }
     return bean;
   }
+
+  /**
+   * 注册 Cache 的注解配置
+   * 同一个 Cache 的 hash tag 模板决定了缓存 Key 的格式，配置不一致时直接失败，避免按 Bean 处理顺序静默选择
+   *
+   * @param cacheName       cacheName
+   * @param extendCacheable ExtendCacheable
+   * @param method          注解所在方法
+   */
+  private void register(String cacheName, ExtendCacheable extendCacheable, Method method) {
+    validateHashTagTemplate(cacheName, extendCacheable.hashTagTemplate(), method);
+    ExtendCacheable existing = CACHE_TTL_MAP.putIfAbsent(cacheName, extendCacheable);
+    if (Objects.isNull(existing)) {
+      return;
+    }
+    if (!StringUtils.equals(existing.hashTagTemplate(), extendCacheable.hashTagTemplate())) {
+      throw new IllegalStateException("Conflicting hashTagTemplate for cache '" + cacheName + "': '"
+          + existing.hashTagTemplate() + "' and '" + extendCacheable.hashTagTemplate() + "' on '" + method + "'");
+    }
+    CACHE_TTL_MAP.put(cacheName, extendCacheable);
+  }
+
+  /**
+   * 校验 hash tag 模板，需要包含 {@value ExtendRedisCache#KEY_PLACEHOLDER} 和非空的 {...}
+   *
+   * @param cacheName       cacheName
+   * @param hashTagTemplate hash tag 模板
+   * @param method          注解所在方法
+   */
+  private static void validateHashTagTemplate(String cacheName, String hashTagTemplate, Method method) {
+    if (StringUtils.isBlank(hashTagTemplate)) {
+      return;
+    }
+    if (!hashTagTemplate.contains(ExtendRedisCache.KEY_PLACEHOLDER)) {
+      throw new IllegalStateException("Invalid hashTagTemplate '" + hashTagTemplate + "' for cache '" + cacheName
+          + "' on '" + method + "': must contain " + ExtendRedisCache.KEY_PLACEHOLDER);
+    }
+    int start = hashTagTemplate.indexOf('{');
+    if (start < 0 || hashTagTemplate.indexOf('}', start) <= start + 1) {
+      throw new IllegalStateException("Invalid hashTagTemplate '" + hashTagTemplate + "' for cache '" + cacheName
+          + "' on '" + method + "': must contain a non-empty hash tag like {" + ExtendRedisCache.KEY_PLACEHOLDER + "}");
+    }
+  }
 }
@@ -0,0 +1,105 @@
+package org.example.extend.cache.manager;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.lang.Nullable;
+
+import java.util.*;
+
+/**
+ * Redis Cache，支持 hash tag 模板及批量操作
+ * <p>
+ * 配置 hash tag 模板后，缓存 Key 为：前缀 + 模板（{@value #KEY_PLACEHOLDER} 替换为原始 Key），
+ * 如模板 <code>{#key}</code> 生成 <code>extend::user::{1}</code>，
+ * 不同缓存使用相同的模板时，相同 Key 的缓存会落在 Redis Cluster 的同一个 slot 上
+ *
+ * @author liuzw
+ * @date 2026/10/18
+ */
+public class ExtendRedisCache extends RedisCache {
+  /**
+   * hash tag 模板中原始 Key 的占位符
+   */
+  public static final String KEY_PLACEHOLDER = "#key";
+
+  private final ExtendRedisCacheWriter cacheWriter;
+  /**
+   * hash tag 模板，为空时不使用；由 {@link ExtendCacheableHandler} 在启动时校验
+   */
+  private final String hashTagTemplate;
+
+  protected ExtendRedisCache(String name,
+                             ExtendRedisCacheWriter cacheWriter,
+                             RedisCacheConfiguration cacheConfig,
+                             @Nullable String hashTagTemplate) {
+    super(name, cacheWriter, cacheConfig);
+    this.cacheWriter = cacheWriter;
+    this.hashTagTemplate = hashTagTemplate;
+  }
+
+  /**
+   * 批量获取缓存
+   *
+   * @param keys 缓存 Key
+   * @return 命中的缓存，未命中的 Key 不包含在结果中
+   */
+  public Map<Object, Object> getAll(Collection<?> keys) {
+    List<Object> cacheKeys = new ArrayList<>(keys);
+    List<byte[]> values = cacheWriter.get(getName(), serializeCacheKeys(cacheKeys));
+    Map<Object, Object> result = new LinkedHashMap<>();
+    for (int i = 0; i < cacheKeys.size(); i++) {
+      byte[] value = values.get(i);
+      if (value != null) {
+        result.put(cacheKeys.get(i), fromStoreValue(deserializeCacheValue(value)));
+      }
+    }
+    return result;
+  }
+
+  /**
+   * 批量写入缓存，null 值按 {@link #put(Object, Object)} 的规则处理
+   *
+   * @param entries 缓存 Key 和缓存值
+   */
+  public void putAll(Map<?, ?> entries) {
+    Map<byte[], byte[]> serialized = new LinkedHashMap<>();
+    entries.forEach((key, value) -> {
+      Object cacheValue = preProcessCacheValue(value);
+      if (!isAllowNullValues() && cacheValue == null) {
+        throw new IllegalArgumentException(String.format(
+            "Cache '%s' does not allow 'null' values. Avoid storing null via '@Cacheable(unless=\"#result == null\")' or configure RedisCache to allow 'null' via RedisCacheConfiguration.",
+            getName()));
+      }
+      serialized.put(serializeCacheKey(createCacheKey(key)), serializeCacheValue(cacheValue));
+    });
+    cacheWriter.put(getName(), serialized, getCacheConfiguration().getTtl());
+  }
+
+  /**
+   * 批量删除缓存
+   *
+   * @param keys 缓存 Key
+   */
+  public void evictAll(Collection<?> keys) {
+    cacheWriter.remove(getName(), serializeCacheKeys(new ArrayList<>(keys)));
+  }
+
+  @Override
+  protected String createCacheKey(Object key) {
+    String convertedKey = convertKey(key);
+    if (StringUtils.isNotBlank(hashTagTemplate)) {
+      convertedKey = hashTagTemplate.replace(KEY_PLACEHOLDER, convertedKey);
+    }
+    if (!getCacheConfiguration().usePrefix()) {
+      return convertedKey;
+    }
+    return getCacheConfiguration().getKeyPrefixFor(getName()) + convertedKey;
+  }
+
+  private List<byte[]> serializeCacheKeys(List<?> keys) {
+    List<byte[]> cacheKeys = new ArrayList<>(keys.size());
+    keys.forEach(key -> cacheKeys.add(serializeCacheKey(createCacheKey(key))));
+    return cacheKeys;
+  }
+}
@@ -4,7 +4,6 @@ import org.example.extend.cache.anno.ExtendCacheable;
 import org.springframework.data.redis.cache.RedisCache;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
-import org.springframework.data.redis.cache.RedisCacheWriter;
 
 import java.time.Duration;
 import java.util.*;
@@ -20,17 +19,19 @@ public class ExtendRedisCacheManager extends RedisCacheManager {
    * ExtendCacheable 注解配置
    */
   private final ExtendCacheableHandler extendCacheableHandler;
+  private final ExtendRedisCacheWriter cacheWriter;
   private final Map<String, RedisCacheConfiguration> initialCacheConfigurations;
   private final RedisCacheConfiguration defaultCacheConfiguration;
 
   public ExtendRedisCacheManager(ExtendCacheableHandler extendCacheableHandler,
-                                 RedisCacheWriter cacheWriter,
+                                 ExtendRedisCacheWriter cacheWriter,
                                  RedisCacheConfiguration defaultCacheConfiguration,
                                  Map<String, RedisCacheConfiguration> initialCacheConfigurations) {
     super(cacheWriter, defaultCacheConfiguration, initialCacheConfigurations);
     this.initialCacheConfigurations = initialCacheConfigurations;
     this.defaultCacheConfiguration = defaultCacheConfiguration;
     this.extendCacheableHandler = extendCacheableHandler;
+    this.cacheWriter = cacheWriter;
   }
 
   @Override
@@ -53,6 +54,7 @@ public class ExtendRedisCacheManager extends RedisCacheManager {
       // 设置过期时间【秒】
       cacheConfig = cacheConfig.entryTtl(Duration.ofSeconds(ttlSecond));
     }
-    return super.createRedisCache(name, cacheConfig);
+    String hashTagTemplate = Objects.isNull(extendCacheable) ? null : extendCacheable.hashTagTemplate();
+    return new ExtendRedisCache(name, cacheWriter, cacheConfig, hashTagTemplate);
   }
 }
@@ -0,0 +1,307 @@
+package org.example.extend.cache.manager;
+
+import org.springframework.data.redis.cache.CacheStatistics;
+import org.springframework.data.redis.cache.CacheStatisticsCollector;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.ClusterSlotHashUtil;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 支持 Redis Cluster 的 RedisCacheWriter
+ * <p>
+ * 单 Key 操作委托给 {@link RedisCacheWriter#nonLockingRedisCacheWriter(RedisConnectionFactory)}；
+ * 批量读、写在单机模式下使用 pipeline，批量删除使用一次 DEL；
+ * Lettuce 集群模式下，批量操作由 {@link LettuceClusterPipeline} 经集群连接路由到各主节点，pipeline 并行执行，
+ * 清空缓存时在各主节点上并行执行 KEYS 并删除匹配的 Key；单机模式下清空缓存委托执行；
+ * 其他客户端的集群模式下，批量操作逐个 Key 委托执行
+ *
+ * @author liuzw
+ * @date 2026/10/18
+ */
+public class ExtendRedisCacheWriter implements RedisCacheWriter {
+  private static final boolean LETTUCE_PRESENT = ClassUtils.isPresent(
+      "io.lettuce.core.cluster.api.async.RedisAdvancedClusterAsyncCommands", ExtendRedisCacheWriter.class.getClassLoader());
+  /**
+   * 单 Key 操作委托
+   */
+  private final RedisCacheWriter delegate;
+  private final RedisConnectionFactory connectionFactory;
+  /**
+   * 与委托共用的统计，记录批量操作
+   */
+  private final CacheStatisticsCollector statistics;
+  /**
+   * 连接模式，首次使用时确定
+   */
+  private volatile ConnectionMode connectionMode;
+
+  public ExtendRedisCacheWriter(RedisConnectionFactory connectionFactory) {
+    this(RedisCacheWriter.nonLockingRedisCacheWriter(connectionFactory), connectionFactory, CacheStatisticsCollector.none());
+  }
+
+  private ExtendRedisCacheWriter(RedisCacheWriter delegate,
+                                 RedisConnectionFactory connectionFactory,
+                                 CacheStatisticsCollector statistics) {
+    Assert.notNull(delegate, "RedisCacheWriter must not be null!");
+    Assert.notNull(connectionFactory, "ConnectionFactory must not be null!");
+    Assert.notNull(statistics, "CacheStatisticsCollector must not be null!");
+    this.delegate = delegate;
+    this.connectionFactory = connectionFactory;
+    this.statistics = statistics;
+  }
+
+  @Override
+  public void put(String name, byte[] key, byte[] value, @Nullable Duration ttl) {
+    delegate.put(name, key, value, ttl);
+  }
+
+  @Override
+  public byte[] get(String name, byte[] key) {
+    return delegate.get(name, key);
+  }
+
+  @Override
+  public byte[] putIfAbsent(String name, byte[] key, byte[] value, @Nullable Duration ttl) {
+    return delegate.putIfAbsent(name, key, value, ttl);
+  }
+
+  @Override
+  public void remove(String name, byte[] key) {
+    delegate.remove(name, key);
+  }
+
+  @Override
+  public void clean(String name, byte[] pattern) {
+    if (getConnectionMode() != ConnectionMode.LETTUCE_CLUSTER) {
+      delegate.clean(name, pattern);
+      return;
+    }
+    Assert.notNull(name, "Name must not be null!");
+    Assert.notNull(pattern, "Pattern must not be null!");
+    // pattern 带有固定 hash tag 时，所有匹配的 Key 都在同一个 slot 上，只需清理对应节点
+    Integer slot = fixedHashTagSlot(pattern);
+    int deleted = execute(connection -> LettuceClusterPipeline.clean(connection, pattern, slot));
+    if (deleted > 0) {
+      statistics.incDeletesBy(name, deleted);
+    }
+  }
+
+  /**
+   * 批量获取缓存
+   *
+   * @param name 缓存名称
+   * @param keys 缓存 Key
+   * @return 与 keys 顺序一致的缓存值，不存在时为 null
+   */
+  public List<byte[]> get(String name, List<byte[]> keys) {
+    Assert.notNull(name, "Name must not be null!");
+    Assert.notNull(keys, "Keys must not be null!");
+    if (keys.isEmpty()) {
+      return Collections.emptyList();
+    }
+    List<byte[]> values;
+    switch (getConnectionMode()) {
+      case STANDALONE:
+        List<Object> results = executePipelined(connection -> keys.forEach(connection::get));
+        values = new ArrayList<>(keys.size());
+        results.forEach(result -> values.add((byte[]) result));
+        break;
+      case LETTUCE_CLUSTER:
+        values = execute(connection -> LettuceClusterPipeline.get(connection, keys));
+        break;
+      default:
+        // 委托执行时由委托记录统计
+        values = new ArrayList<>(keys.size());
+        keys.forEach(key -> values.add(delegate.get(name, key)));
+        return values;
+    }
+    values.forEach(value -> {
+      statistics.incGets(name);
+      if (value != null) {
+        statistics.incHits(name);
+      } else {
+        statistics.incMisses(name);
+      }
+    });
+    return values;
+  }
+
+  /**
+   * 批量写入缓存
+   *
+   * @param name    缓存名称
+   * @param entries 缓存 Key 和缓存值
+   * @param ttl     过期时间，为 null 或非正数时永不过期
+   */
+  public void put(String name, Map<byte[], byte[]> entries, @Nullable Duration ttl) {
+    Assert.notNull(name, "Name must not be null!");
+    Assert.notNull(entries, "Entries must not be null!");
+    if (entries.isEmpty()) {
+      return;
+    }
+    switch (getConnectionMode()) {
+      case STANDALONE:
+        executePipelined(connection -> entries.forEach((key, value) -> doPut(connection, key, value, ttl)));
+        break;
+      case LETTUCE_CLUSTER:
+        Duration expiration = shouldExpireWithin(ttl) ? ttl : null;
+        execute(connection -> {
+          LettuceClusterPipeline.set(connection, entries, expiration);
+          return null;
+        });
+        break;
+      default:
+        entries.forEach((key, value) -> delegate.put(name, key, value, ttl));
+        return;
+    }
+    entries.keySet().forEach(key -> statistics.incPuts(name));
+  }
+
+  /**
+   * 批量删除缓存
+   *
+   * @param name 缓存名称
+   * @param keys 缓存 Key
+   */
+  public void remove(String name, Collection<byte[]> keys) {
+    Assert.notNull(name, "Name must not be null!");
+    Assert.notNull(keys, "Keys must not be null!");
+    if (keys.isEmpty()) {
+      return;
+    }
+    switch (getConnectionMode()) {
+      case STANDALONE:
+        execute(connection -> connection.del(keys.toArray(new byte[0][])));
+        break;
+      case LETTUCE_CLUSTER:
+        execute(connection -> LettuceClusterPipeline.del(connection, new ArrayList<>(keys)));
+        break;
+      default:
+        keys.forEach(key -> delegate.remove(name, key));
+        return;
+    }
+    // 与单 Key 删除一致，按删除操作次数记录
+    keys.forEach(key -> statistics.incDeletes(name));
+  }
+
+  @Override
+  public CacheStatistics getCacheStatistics(String cacheName) {
+    return delegate.getCacheStatistics(cacheName);
+  }
+
+  @Override
+  public void clearStatistics(String name) {
+    delegate.clearStatistics(name);
+  }
+
+  @Override
+  public ExtendRedisCacheWriter withStatisticsCollector(CacheStatisticsCollector cacheStatisticsCollector) {
+    return new ExtendRedisCacheWriter(delegate.withStatisticsCollector(cacheStatisticsCollector),
+        connectionFactory, cacheStatisticsCollector);
+  }
+
+  private ConnectionMode getConnectionMode() {
+    ConnectionMode mode = this.connectionMode;
+    if (mode == null) {
+      try (RedisConnection connection = connectionFactory.getConnection()) {
+        if (!(connection instanceof RedisClusterConnection)) {
+          mode = ConnectionMode.STANDALONE;
+        } else if (LETTUCE_PRESENT && LettuceClusterPipeline.supports(connection)) {
+          mode = ConnectionMode.LETTUCE_CLUSTER;
+        } else {
+          mode = ConnectionMode.CLUSTER;
+        }
+      }
+      this.connectionMode = mode;
+    }
+    return mode;
+  }
+
+  private <T> T execute(Function<RedisConnection, T> callback) {
+    try (RedisConnection connection = connectionFactory.getConnection()) {
+      return callback.apply(connection);
+    }
+  }
+
+  private List<Object> executePipelined(Consumer<RedisConnection> callback) {
+    return execute(connection -> {
+      connection.openPipeline();
+      try {
+        callback.accept(connection);
+      } catch (RuntimeException e) {
+        // 异常时也需要关闭 pipeline，避免连接归还连接池时仍处于 pipeline 状态
+        connection.closePipeline();
+        throw e;
+      }
+      return connection.closePipeline();
+    });
+  }
+
+  /**
+   * 计算 pattern 中固定 hash tag 对应的 slot
+   * 仅当第一个 {...} 及其之前都不含通配符时，所有匹配的 Key 才一定落在同一个 slot
+   *
+   * @param pattern Key 匹配规则
+   * @return slot，不存在固定 hash tag 时返回 null
+   */
+  @Nullable
+  static Integer fixedHashTagSlot(byte[] pattern) {
+    int start = -1;
+    for (int i = 0; i < pattern.length; i++) {
+      byte b = pattern[i];
+      if (b == '*' || b == '?' || b == '[' || b == '\\') {
+        return null;
+      }
+      if (start < 0 && b == '{') {
+        start = i;
+      } else if (start >= 0 && b == '}') {
+        // {} 为空时 Redis 会使用整个 Key 计算 slot
+        return i - start > 1 ? ClusterSlotHashUtil.calculateSlot(Arrays.copyOfRange(pattern, start + 1, i)) : null;
+      }
+    }
+    return null;
+  }
+
+  private static void doPut(RedisConnection connection, byte[] key, byte[] value, @Nullable Duration ttl) {
+    if (shouldExpireWithin(ttl)) {
+      connection.set(key, value, Expiration.from(ttl.toMillis(), TimeUnit.MILLISECONDS), SetOption.upsert());
+    } else {
+      connection.set(key, value);
+    }
+  }
+
+  private static boolean shouldExpireWithin(@Nullable Duration ttl) {
+    return ttl != null && !ttl.isZero() && !ttl.isNegative();
+  }
+
+  /**
+   * 连接模式
+   */
+  private enum ConnectionMode {
+    /**
+     * 单机
+     */
+    STANDALONE,
+    /**
+     * Lettuce 集群，批量操作路由到各节点 pipeline 执行
+     */
+    LETTUCE_CLUSTER,
+    /**
+     * 其他客户端的集群
+     */
+    CLUSTER
+  }
+}
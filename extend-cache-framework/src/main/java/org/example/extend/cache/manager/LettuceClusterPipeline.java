@@ -0,0 +1,154 @@
+package org.example.extend.cache.manager;
+
+import io.lettuce.core.LettuceFutures;
+import io.lettuce.core.RedisCommandTimeoutException;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.SetArgs;
+import io.lettuce.core.cluster.api.async.RedisAdvancedClusterAsyncCommands;
+import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.lettuce.LettuceConverters;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.BiFunction;
+
+/**
+ * Lettuce 集群 pipeline 执行批量命令
+ * <p>
+ * 在集群异步连接上发送命令：Lettuce 按 Key 的 slot 将命令路由到所属主节点，并跟随 MOVED、ASK 重定向；
+ * 异步命令不等待响应即发送下一条，同一节点上的命令以 pipeline 方式执行，不同节点之间并行执行；
+ * 集群连接可能被共享，因此不关闭自动 flush
+ *
+ * @author liuzw
+ * @date 2026/10/18
+ */
+final class LettuceClusterPipeline {
+
+  private LettuceClusterPipeline() {
+  }
+
+  /**
+   * 是否为 Lettuce 集群连接
+   *
+   * @param connection 连接
+   * @return 是否支持
+   */
+  static boolean supports(RedisConnection connection) {
+    return connection.getNativeConnection() instanceof RedisAdvancedClusterAsyncCommands;
+  }
+
+  /**
+   * 批量 GET
+   *
+   * @param connection 集群连接
+   * @param keys       Key
+   * @return 与 keys 顺序一致的值，不存在时为 null
+   */
+  static List<byte[]> get(RedisConnection connection, List<byte[]> keys) {
+    return pipeline(connection, keys, (commands, key) -> commands.get(key));
+  }
+
+  /**
+   * 批量 SET，设置过期时间时使用 SET ... PX
+   *
+   * @param connection 集群连接
+   * @param entries    Key 和值
+   * @param ttl        过期时间，为 null 时永不过期
+   */
+  static void set(RedisConnection connection, Map<byte[], byte[]> entries, @Nullable Duration ttl) {
+    SetArgs setArgs = ttl != null ? SetArgs.Builder.px(ttl.toMillis()) : new SetArgs();
+    pipeline(connection, new ArrayList<>(entries.keySet()), (commands, key) -> commands.set(key, entries.get(key), setArgs));
+  }
+
+  /**
+   * 批量 DEL
+   *
+   * @param connection 集群连接
+   * @param keys       Key
+   * @return 删除的 Key 数量
+   */
+  static int del(RedisConnection connection, List<byte[]> keys) {
+    return pipeline(connection, keys, (commands, key) -> commands.del(key))
+        .stream().mapToInt(Long::intValue).sum();
+  }
+
+  /**
+   * 在主节点上并行执行 KEYS，并删除匹配的 Key
+   *
+   * @param connection 集群连接
+   * @param pattern    Key 匹配规则
+   * @param slot       不为 null 时，只在负责该 slot 的主节点上执行
+   * @return 删除的 Key 数量
+   */
+  static int clean(RedisConnection connection, byte[] pattern, @Nullable Integer slot) {
+    RedisAdvancedClusterAsyncCommands<byte[], byte[]> commands = nativeCommands(connection);
+    // KEYS 只返回单个节点上的 Key，需要在节点连接上执行
+    List<RedisFuture<List<byte[]>>> keysFutures = new ArrayList<>();
+    for (RedisClusterNode node : commands.getStatefulConnection().getPartitions()) {
+      if (slot == null ? !node.getSlots().isEmpty() : node.hasSlot(slot)) {
+        keysFutures.add(commands.getConnection(node.getNodeId()).keys(pattern));
+      }
+    }
+    await(commands, keysFutures);
+    List<byte[]> keys = new ArrayList<>();
+    keysFutures.forEach(future -> keys.addAll(getNow(future)));
+    return del(connection, keys);
+  }
+
+  /**
+   * 在集群连接上异步发送命令，并等待全部完成
+   *
+   * @param connection 集群连接
+   * @param keys       Key
+   * @param command    每个 Key 执行的命令
+   * @return 与 keys 顺序一致的执行结果
+   */
+  private static <T> List<T> pipeline(RedisConnection connection, List<byte[]> keys,
+                                      BiFunction<RedisAdvancedClusterAsyncCommands<byte[], byte[]>, byte[], RedisFuture<T>> command) {
+    RedisAdvancedClusterAsyncCommands<byte[], byte[]> commands = nativeCommands(connection);
+    List<RedisFuture<T>> futures = new ArrayList<>(keys.size());
+    keys.forEach(key -> futures.add(command.apply(commands, key)));
+    await(commands, futures);
+    List<T> results = new ArrayList<>(keys.size());
+    futures.forEach(future -> results.add(getNow(future)));
+    return results;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static RedisAdvancedClusterAsyncCommands<byte[], byte[]> nativeCommands(RedisConnection connection) {
+    return (RedisAdvancedClusterAsyncCommands<byte[], byte[]>) connection.getNativeConnection();
+  }
+
+  private static void await(RedisAdvancedClusterAsyncCommands<byte[], byte[]> commands, List<? extends RedisFuture<?>> futures) {
+    Duration timeout = commands.getStatefulConnection().getTimeout();
+    try {
+      if (!LettuceFutures.awaitAll(timeout, futures.toArray(new Future<?>[0]))) {
+        throw new RedisCommandTimeoutException("Command timed out after " + timeout);
+      }
+    } catch (RuntimeException e) {
+      throw convertException(e);
+    }
+  }
+
+  private static <T> T getNow(RedisFuture<T> future) {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw convertException(e);
+    } catch (ExecutionException e) {
+      throw convertException(e);
+    }
+  }
+
+  private static DataAccessException convertException(Exception e) {
+    DataAccessException exception = LettuceConverters.exceptionConverter().convert(e);
+    return exception != null ? exception : new RedisSystemException(e.getMessage(), e);
+  }
+}
@@ -0,0 +1,225 @@
+package org.example.extend.cache.manager;
+
+import org.example.extend.cache.anno.ExtendCacheable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.cache.CacheKeyPrefix;
+import org.springframework.data.redis.cache.CacheStatistics;
+import org.springframework.data.redis.cache.CacheStatisticsCollector;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ExtendRedisCache 批量操作及清空缓存测试，单机和集群共用
+ *
+ * @author liuzw
+ * @date 2026/10/18
+ */
+abstract class AbstractExtendRedisCacheTest {
+  protected static final Duration TTL = Duration.ofDays(1);
+
+  protected ExtendRedisCacheManager cacheManager;
+
+  /**
+   * @return 测试使用的连接工厂
+   */
+  protected abstract RedisConnectionFactory connectionFactory();
+
+  @BeforeEach
+  void setUp() {
+    try (RedisConnection connection = connectionFactory().getConnection()) {
+      connection.flushAll();
+    }
+    cacheManager = createCacheManager(connectionFactory());
+  }
+
+  /**
+   * 创建测试使用的 CacheManager，缓存配置见 {@link CacheFixture}
+   *
+   * @param connectionFactory 连接工厂
+   * @return CacheManager
+   */
+  static ExtendRedisCacheManager createCacheManager(RedisConnectionFactory connectionFactory) {
+    ExtendCacheableHandler handler = new ExtendCacheableHandler();
+    handler.postProcessAfterInitialization(new CacheFixture(), "cacheFixture");
+    // 与 ExtendCacheAutoConfigure 一致的配置
+    RedisCacheConfiguration cacheConfiguration = RedisCacheConfiguration.defaultCacheConfig()
+        .entryTtl(TTL)
+        .computePrefixWith(CacheKeyPrefix.prefixed("extend".concat(CacheKeyPrefix.SEPARATOR)))
+        .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
+        .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer()));
+    ExtendRedisCacheWriter cacheWriter = new ExtendRedisCacheWriter(connectionFactory)
+        .withStatisticsCollector(CacheStatisticsCollector.create());
+    ExtendRedisCacheManager cacheManager = new ExtendRedisCacheManager(handler, cacheWriter, cacheConfiguration, new HashMap<>());
+    cacheManager.afterPropertiesSet();
+    return cacheManager;
+  }
+
+  @Test
+  void getAllKeepsOrderAndSkipsMisses() {
+    ExtendRedisCache cache = cache("A");
+    Map<Object, Object> entries = values(20);
+    cache.putAll(entries);
+
+    List<Object> keys = new ArrayList<>();
+    keys.add("missing-1");
+    keys.addAll(entries.keySet());
+    keys.add("missing-2");
+    Collections.reverse(keys);
+    Map<Object, Object> result = cache.getAll(keys);
+
+    List<Object> expectedKeys = keys.stream().filter(entries::containsKey).collect(Collectors.toList());
+    assertEquals(expectedKeys, new ArrayList<>(result.keySet()));
+    entries.forEach((key, value) -> assertEquals(value, result.get(key)));
+    assertTrue(cache.getAll(Collections.singletonList("missing-3")).isEmpty());
+    assertTrue(cache.getAll(Collections.emptyList()).isEmpty());
+  }
+
+  @Test
+  void putAllAppliesTtl() {
+    ExtendRedisCache cache = cache("Plain");
+    cache.putAll(values(20));
+
+    try (RedisConnection connection = connectionFactory().getConnection()) {
+      for (int i = 0; i < 20; i++) {
+        Long ttl = connection.pTtl(bytes("extend::Plain::" + i));
+        assertNotNull(ttl);
+        assertTrue(ttl > 0 && ttl <= TTL.toMillis(), "ttl of key " + i + " is " + ttl);
+      }
+    }
+    assertEquals("value-7", cache.get(7, String.class));
+  }
+
+  @Test
+  void evictAllRemovesOnlyGivenKeys() {
+    ExtendRedisCache cache = cache("A");
+    Map<Object, Object> entries = values(20);
+    cache.putAll(entries);
+
+    List<Object> evicted = IntStream.range(0, 20).filter(i -> i % 2 == 0).boxed().collect(Collectors.toList());
+    List<Object> evictKeys = new ArrayList<>(evicted);
+    evictKeys.add("missing");
+    cache.evictAll(evictKeys);
+
+    Map<Object, Object> result = cache.getAll(entries.keySet());
+    List<Object> remaining = IntStream.range(0, 20).filter(i -> i % 2 != 0).boxed().collect(Collectors.toList());
+    assertEquals(remaining, new ArrayList<>(result.keySet()));
+  }
+
+  @Test
+  void clearWithoutFixedHashTagRemovesOnlyOwnEntries() {
+    ExtendRedisCache cacheA = cache("A");
+    ExtendRedisCache cacheB = cache("B");
+    ExtendRedisCache plain = cache("Plain");
+    cacheA.putAll(values(20));
+    cacheB.putAll(values(20));
+    plain.putAll(values(20));
+
+    cacheA.clear();
+    plain.clear();
+
+    assertTrue(cacheA.getAll(values(20).keySet()).isEmpty());
+    assertTrue(plain.getAll(values(20).keySet()).isEmpty());
+    assertEquals(20, cacheB.getAll(values(20).keySet()).size());
+  }
+
+  @Test
+  void clearWithFixedHashTagRemovesOnlyOwnEntries() {
+    ExtendRedisCache tenant = cache("Tenant");
+    ExtendRedisCache otherTenant = cache("OtherTenant");
+    tenant.putAll(values(20));
+    otherTenant.putAll(values(20));
+
+    tenant.clear();
+
+    assertTrue(tenant.getAll(values(20).keySet()).isEmpty());
+    assertEquals(20, otherTenant.getAll(values(20).keySet()).size());
+  }
+
+  @Test
+  void batchOperationsRecordStatistics() {
+    ExtendRedisCache cache = cache("Stats");
+    cache.putAll(values(3));
+    cache.getAll(Arrays.asList(0, 1, 2, "missing"));
+    cache.evictAll(Arrays.asList(0, 1));
+    cache.clear();
+
+    CacheStatistics statistics = cache.getStatistics();
+    assertEquals(3, statistics.getPuts());
+    assertEquals(4, statistics.getGets());
+    assertEquals(3, statistics.getHits());
+    assertEquals(1, statistics.getMisses());
+    // evictAll 2 次，clear 删除剩余 1 个
+    assertEquals(3, statistics.getDeletes());
+  }
+
+  protected ExtendRedisCache cache(String name) {
+    return cache(cacheManager, name);
+  }
+
+  static ExtendRedisCache cache(ExtendRedisCacheManager cacheManager, String name) {
+    Cache cache = cacheManager.getCache(name);
+    assertTrue(cache instanceof ExtendRedisCache);
+    return (ExtendRedisCache) cache;
+  }
+
+  protected static Map<Object, Object> values(int size) {
+    Map<Object, Object> values = new LinkedHashMap<>();
+    for (int i = 0; i < size; i++) {
+      values.put(i, "value-" + i);
+    }
+    return values;
+  }
+
+  protected static byte[] bytes(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+
+  /**
+   * 测试使用的缓存配置
+   */
+  static class CacheFixture {
+    @ExtendCacheable(value = "A", hashTagTemplate = "{#key}")
+    public String a(Integer id) {
+      return null;
+    }
+
+    @ExtendCacheable(value = "B", hashTagTemplate = "{#key}")
+    public String b(Integer id) {
+      return null;
+    }
+
+    @ExtendCacheable(value = "Plain")
+    public String plain(Integer id) {
+      return null;
+    }
+
+    @ExtendCacheable(value = "Tenant", hashTagTemplate = "{tenant}:#key")
+    public String tenant(Integer id) {
+      return null;
+    }
+
+    @ExtendCacheable(value = "OtherTenant", hashTagTemplate = "{tenant}:#key")
+    public String otherTenant(Integer id) {
+      return null;
+    }
+
+    @ExtendCacheable(value = "Stats", hashTagTemplate = "{#key}")
+    public String stats(Integer id) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,93 @@
+package org.example.extend.cache.manager;
+
+import org.example.extend.cache.anno.ExtendCacheable;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ExtendCacheableHandler 测试
+ *
+ * @author liuzw
+ * @date 2026/10/18
+ */
+class ExtendCacheableHandlerTest {
+
+  @Test
+  void sameHashTagTemplateIsAllowed() {
+    ExtendCacheableHandler handler = new ExtendCacheableHandler();
+    handler.postProcessAfterInitialization(new TaggedService(), "taggedService");
+    assertDoesNotThrow(() -> handler.postProcessAfterInitialization(new SameTaggedService(), "sameTaggedService"));
+    assertEquals("{#key}", handler.getExtendCacheableConfig("HandlerTagged").hashTagTemplate());
+  }
+
+  @Test
+  void conflictingHashTagTemplateFails() {
+    ExtendCacheableHandler handler = new ExtendCacheableHandler();
+    handler.postProcessAfterInitialization(new TaggedService(), "taggedService");
+    IllegalStateException exception = assertThrows(IllegalStateException.class,
+        () -> handler.postProcessAfterInitialization(new UntaggedService(), "untaggedService"));
+    assertTrue(exception.getMessage().contains("HandlerTagged"));
+  }
+
+  @Test
+  void hashTagTemplateWithoutKeyPlaceholderFails() {
+    ExtendCacheableHandler handler = new ExtendCacheableHandler();
+    IllegalStateException exception = assertThrows(IllegalStateException.class,
+        () -> handler.postProcessAfterInitialization(new NoPlaceholderService(), "noPlaceholderService"));
+    assertTrue(exception.getMessage().contains("HandlerNoPlaceholder"));
+  }
+
+  @Test
+  void hashTagTemplateWithoutHashTagFails() {
+    ExtendCacheableHandler handler = new ExtendCacheableHandler();
+    assertThrows(IllegalStateException.class,
+        () -> handler.postProcessAfterInitialization(new NoHashTagService(), "noHashTagService"));
+    assertThrows(IllegalStateException.class,
+        () -> handler.postProcessAfterInitialization(new EmptyHashTagService(), "emptyHashTagService"));
+    assertNull(handler.getExtendCacheableConfig("HandlerNoHashTag"));
+    assertNull(handler.getExtendCacheableConfig("HandlerEmptyHashTag"));
+  }
+
+  static class TaggedService {
+    @ExtendCacheable(value = "HandlerTagged", hashTagTemplate = "{#key}")
+    public String get(Integer id) {
+      return null;
+    }
+  }
+
+  static class SameTaggedService {
+    @ExtendCacheable(cacheNames = "HandlerTagged", hashTagTemplate = "{#key}", expiredSecondTime = 60)
+    public String get(Integer id) {
+      return null;
+    }
+  }
+
+  static class UntaggedService {
+    @ExtendCacheable(value = "HandlerTagged")
+    public String get(Integer id) {
+      return null;
+    }
+  }
+
+  static class NoPlaceholderService {
+    @ExtendCacheable(value = "HandlerNoPlaceholder", hashTagTemplate = "{tenant}")
+    public String get(Integer id) {
+      return null;
+    }
+  }
+
+  static class NoHashTagService {
+    @ExtendCacheable(value = "HandlerNoHashTag", hashTagTemplate = "tenant:#key")
+    public String get(Integer id) {
+      return null;
+    }
+  }
+
+  static class EmptyHashTagService {
+    @ExtendCacheable(value = "HandlerEmptyHashTag", hashTagTemplate = "{}#key")
+    public String get(Integer id) {
+      return null;
+    }
+  }
+}
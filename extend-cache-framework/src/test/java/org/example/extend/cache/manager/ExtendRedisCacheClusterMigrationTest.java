@@ -0,0 +1,110 @@
+package org.example.extend.cache.manager;
+
+import io.lettuce.core.MigrateArgs;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.sync.RedisCommands;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.ClusterSlotHashUtil;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisClusterNode;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 集群 slot 迁移期间及迁移后的批量操作测试
+ * <p>
+ * 迁移会改变集群拓扑，因此使用独立的集群
+ *
+ * @author liuzw
+ * @date 2026/10/18
+ */
+class ExtendRedisCacheClusterMigrationTest {
+  private static RedisStandIn redis;
+
+  @BeforeAll
+  static void startRedis() throws IOException {
+    redis = RedisStandIn.cluster();
+  }
+
+  @AfterAll
+  static void stopRedis() throws IOException {
+    redis.close();
+  }
+
+  @Test
+  void batchOperationsFollowSlotMigration() {
+    ExtendRedisCacheManager cacheManager = AbstractExtendRedisCacheTest.createCacheManager(redis.getConnectionFactory());
+    ExtendRedisCache cacheA = AbstractExtendRedisCacheTest.cache(cacheManager, "A");
+    ExtendRedisCache cacheB = AbstractExtendRedisCacheTest.cache(cacheManager, "B");
+    cacheA.putAll(AbstractExtendRedisCacheTest.values(20));
+
+    int slot = ClusterSlotHashUtil.calculateSlot("1");
+    RedisClusterNode source;
+    RedisClusterNode target;
+    RedisClusterNode other;
+    try (RedisClusterConnection connection = redis.getConnectionFactory().getClusterConnection()) {
+      source = connection.clusterGetNodeForSlot(slot);
+      List<RedisClusterNode> others = new ArrayList<>();
+      connection.clusterGetNodes().forEach(node -> {
+        if (node.isMaster() && !node.getId().equals(source.getId())) {
+          others.add(node);
+        }
+      });
+      assertEquals(2, others.size());
+      target = others.get(0);
+      other = others.get(1);
+    }
+
+    RedisClient client = RedisClient.create();
+    try (StatefulRedisConnection<String, String> sourceConnection = client.connect(uri(source));
+         StatefulRedisConnection<String, String> targetConnection = client.connect(uri(target));
+         StatefulRedisConnection<String, String> otherConnection = client.connect(uri(other))) {
+      RedisCommands<String, String> sourceCommands = sourceConnection.sync();
+      RedisCommands<String, String> targetCommands = targetConnection.sync();
+
+      // 迁移中：slot 的 Key 部分已迁移到目标节点，访问已迁移的 Key 时源节点返回 ASK
+      targetCommands.clusterSetSlotImporting(slot, source.getId());
+      sourceCommands.clusterSetSlotMigrating(slot, target.getId());
+      sourceCommands.migrate(target.getHost(), target.getPort(), 0, 5000,
+          MigrateArgs.Builder.keys("extend::A::{1}"));
+      assertEquals(0L, sourceCommands.clusterCountKeysInSlot(slot));
+      assertEquals(1L, targetCommands.clusterCountKeysInSlot(slot));
+
+      assertEquals(20, cacheA.getAll(AbstractExtendRedisCacheTest.values(20).keySet()).size());
+      cacheB.putAll(AbstractExtendRedisCacheTest.values(20));
+      assertEquals(20, cacheB.getAll(AbstractExtendRedisCacheTest.values(20).keySet()).size());
+
+      // 源节点上不存在的 Key 经 ASK 写入目标节点
+      assertEquals(0L, sourceCommands.clusterCountKeysInSlot(slot));
+      assertEquals(2L, targetCommands.clusterCountKeysInSlot(slot));
+
+      // 迁移完成：slot 归属目标节点，客户端缓存的拓扑已过期，源节点返回 MOVED
+      targetCommands.clusterSetSlotNode(slot, target.getId());
+      sourceCommands.clusterSetSlotNode(slot, target.getId());
+      otherConnection.sync().clusterSetSlotNode(slot, target.getId());
+
+      assertEquals(20, cacheA.getAll(AbstractExtendRedisCacheTest.values(20).keySet()).size());
+      assertEquals(20, cacheB.getAll(AbstractExtendRedisCacheTest.values(20).keySet()).size());
+      cacheA.evictAll(Collections.singletonList(1));
+      assertEquals(19, cacheA.getAll(AbstractExtendRedisCacheTest.values(20).keySet()).size());
+      assertEquals(Arrays.asList(0L, 1L),
+          Arrays.asList(targetCommands.exists("extend::A::{1}"), targetCommands.exists("extend::B::{1}")));
+    } finally {
+      client.shutdown();
+    }
+  }
+
+  private static RedisURI uri(RedisClusterNode node) {
+    return RedisURI.create(node.getHost(), node.getPort());
+  }
+}
@@ -0,0 +1,125 @@
+package org.example.extend.cache.manager;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.ClusterSlotHashUtil;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisClusterNode;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ExtendRedisCache 集群测试
+ *
+ * @author liuzw
+ * @date 2026/10/18
+ */
+class ExtendRedisCacheClusterTest extends AbstractExtendRedisCacheTest {
+  private static RedisStandIn redis;
+
+  @BeforeAll
+  static void startRedis() throws IOException {
+    redis = RedisStandIn.cluster();
+  }
+
+  @AfterAll
+  static void stopRedis() throws IOException {
+    redis.close();
+  }
+
+  @Override
+  protected RedisConnectionFactory connectionFactory() {
+    return redis.getConnectionFactory();
+  }
+
+  @Test
+  void keysSpreadAcrossNodes() {
+    // 批量操作的测试数据需要分布在多个节点上
+    try (RedisClusterConnection connection = redis.getConnectionFactory().getClusterConnection()) {
+      Set<RedisClusterNode> nodes = values(20).keySet().stream()
+          .map(key -> connection.clusterGetNodeForSlot(ClusterSlotHashUtil.calculateSlot(bytes("extend::A::{" + key + "}"))))
+          .collect(Collectors.toSet());
+      assertTrue(nodes.size() > 1);
+    }
+  }
+
+  @Test
+  void sameHashTagSharesSlot() {
+    cache("A").put(1, "a");
+    cache("B").put(1, "b");
+
+    try (RedisClusterConnection connection = redis.getConnectionFactory().getClusterConnection()) {
+      byte[] keyA = bytes("extend::A::{1}");
+      byte[] keyB = bytes("extend::B::{1}");
+      assertTrue(connection.exists(keyA));
+      assertTrue(connection.exists(keyB));
+      // 由 Redis 计算 slot
+      assertEquals(connection.clusterGetSlotForKey(keyA), connection.clusterGetSlotForKey(keyB));
+    }
+  }
+
+  @Test
+  void clearWithFixedHashTagRunsKeysOnlyOnSlotOwner() {
+    cache("Tenant").putAll(values(20));
+
+    try (RedisClusterConnection connection = redis.getConnectionFactory().getClusterConnection()) {
+      RedisClusterNode owner = connection.clusterGetNodeForSlot(ClusterSlotHashUtil.calculateSlot("tenant"));
+      List<RedisClusterNode> masters = masters(connection);
+      masters.forEach(connection::resetConfigStats);
+
+      cache("Tenant").clear();
+
+      Set<RedisClusterNode> keysNodes = masters.stream().filter(node -> keysCalls(connection, node) > 0).collect(Collectors.toSet());
+      assertEquals(1, keysNodes.size());
+      assertEquals(owner.getId(), keysNodes.iterator().next().getId());
+    }
+    assertTrue(cache("Tenant").getAll(values(20).keySet()).isEmpty());
+  }
+
+  @Test
+  void clearWithoutFixedHashTagRunsKeysOnAllMasters() {
+    cache("A").putAll(values(20));
+
+    try (RedisClusterConnection connection = redis.getConnectionFactory().getClusterConnection()) {
+      List<RedisClusterNode> masters = masters(connection);
+      masters.forEach(connection::resetConfigStats);
+
+      cache("A").clear();
+
+      assertEquals(3, masters.size());
+      masters.forEach(node -> assertEquals(1, keysCalls(connection, node), "KEYS calls on " + node));
+    }
+  }
+
+  private static List<RedisClusterNode> masters(RedisClusterConnection connection) {
+    List<RedisClusterNode> masters = new ArrayList<>();
+    connection.clusterGetNodes().forEach(node -> {
+      if (node.isMaster()) {
+        masters.add(node);
+      }
+    });
+    return masters;
+  }
+
+  /**
+   * 节点上 KEYS 命令的执行次数，取自 INFO commandstats
+   */
+  private static long keysCalls(RedisClusterConnection connection, RedisClusterNode node) {
+    Properties commandStats = connection.info(node, "commandstats");
+    String keysStats = commandStats == null ? null : commandStats.getProperty("cmdstat_keys");
+    if (keysStats == null) {
+      return 0;
+    }
+    // calls=1,usec=...
+    return Long.parseLong(keysStats.substring("calls=".length(), keysStats.indexOf(',')));
+  }
+}
@@ -0,0 +1,32 @@
+package org.example.extend.cache.manager;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+import java.io.IOException;
+
+/**
+ * ExtendRedisCache 单机测试
+ *
+ * @author liuzw
+ * @date 2026/10/18
+ */
+class ExtendRedisCacheStandaloneTest extends AbstractExtendRedisCacheTest {
+  private static RedisStandIn redis;
+
+  @BeforeAll
+  static void startRedis() throws IOException {
+    redis = RedisStandIn.standalone();
+  }
+
+  @AfterAll
+  static void stopRedis() throws IOException {
+    redis.close();
+  }
+
+  @Override
+  protected RedisConnectionFactory connectionFactory() {
+    return redis.getConnectionFactory();
+  }
+}
@@ -0,0 +1,49 @@
+package org.example.extend.cache.manager;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.ClusterSlotHashUtil;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ExtendRedisCacheWriter 测试
+ *
+ * @author liuzw
+ * @date 2026/10/18
+ */
+class ExtendRedisCacheWriterTest {
+
+  @Test
+  void fixedHashTagSlot() {
+    int slot = ClusterSlotHashUtil.calculateSlot("tenant");
+    assertEquals(slot, fixedHashTagSlot("extend::A::{tenant}"));
+    // } 之后的通配符不影响 slot
+    assertEquals(slot, fixedHashTagSlot("extend::A::{tenant}:*"));
+    assertEquals(slot, fixedHashTagSlot("{tenant}*{other}"));
+  }
+
+  @Test
+  void noFixedHashTagSlot() {
+    // 空 {} 时使用整个 Key 计算 slot
+    assertNull(fixedHashTagSlot("extend::A::{}:*"));
+    assertNull(fixedHashTagSlot("extend::A::{}{tenant}:*"));
+    // { 之前有通配符
+    assertNull(fixedHashTagSlot("extend::*::{tenant}:1"));
+    assertNull(fixedHashTagSlot("extend::?::{tenant}:1"));
+    assertNull(fixedHashTagSlot("extend::[AB]::{tenant}:1"));
+    assertNull(fixedHashTagSlot("extend::\\*::{tenant}:1"));
+    // {} 内有通配符
+    assertNull(fixedHashTagSlot("extend::A::{*}"));
+    assertNull(fixedHashTagSlot("extend::A::{ten*}"));
+    // 没有 hash tag 或未闭合
+    assertNull(fixedHashTagSlot("extend::A::*"));
+    assertNull(fixedHashTagSlot("extend::A::{tenant"));
+    assertNull(fixedHashTagSlot("extend::A::tenant}"));
+  }
+
+  private static Integer fixedHashTagSlot(String pattern) {
+    return ExtendRedisCacheWriter.fixedHashTagSlot(pattern.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,76 @@
+package org.example.extend.cache.manager;
+
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import redis.embedded.Redis;
+import redis.embedded.RedisServer;
+import redis.embedded.RedisShardedCluster;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.util.stream.Collectors;
+
+/**
+ * 本地 Redis 测试环境，使用 embedded-redis 启动 redis-server 进程
+ * <ul>
+ * <li>{@link #cluster()}：3 个主节点的集群</li>
+ * <li>{@link #standalone()}：单机</li>
+ * </ul>
+ *
+ * @author liuzw
+ * @date 2026/10/18
+ */
+final class RedisStandIn implements AutoCloseable {
+  private static final String HOST = "127.0.0.1";
+
+  private final Redis redis;
+  private final LettuceConnectionFactory connectionFactory;
+
+  private RedisStandIn(Redis redis, LettuceConnectionFactory connectionFactory) {
+    this.redis = redis;
+    this.connectionFactory = connectionFactory;
+    this.connectionFactory.afterPropertiesSet();
+  }
+
+  static RedisStandIn cluster() throws IOException {
+    // ephemeral 需要在 shard 之前设置，多个集群才不会使用相同的端口
+    RedisShardedCluster cluster = RedisShardedCluster.newRedisCluster()
+        .ephemeral()
+        .shard("master1", 0)
+        .shard("master2", 0)
+        .shard("master3", 0)
+        .build();
+    cluster.start();
+    RedisClusterConfiguration configuration = new RedisClusterConfiguration(cluster.serverPorts().stream()
+        .map(port -> HOST + ":" + port)
+        .collect(Collectors.toList()));
+    return new RedisStandIn(cluster, new LettuceConnectionFactory(configuration));
+  }
+
+  static RedisStandIn standalone() throws IOException {
+    int port = freePort();
+    RedisServer server = RedisServer.newRedisServer().bind(HOST).port(port).build();
+    server.start();
+    return new RedisStandIn(server, new LettuceConnectionFactory(new RedisStandaloneConfiguration(HOST, port)));
+  }
+
+  LettuceConnectionFactory getConnectionFactory() {
+    return connectionFactory;
+  }
+
+  @Override
+  public void close() throws IOException {
+    connectionFactory.destroy();
+    redis.stop();
+  }
+
+  private static int freePort() {
+    try (ServerSocket socket = new ServerSocket(0)) {
+      return socket.getLocalPort();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}